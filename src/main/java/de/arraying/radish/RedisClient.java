@@ -81,12 +81,28 @@ public class RedisClient implements RedisCallable<RedisResponse>, Closeable {
      * @return The response, will never be null.
      */
     public RedisResponse call(Object... command) {
+        return callInto(new RedisResponse(), command);
+    }
+
+    /**
+     * Executes a Redis command, see {@link #call(Object...)} for more information.
+     * The response is filled into the provided response, which may be reusable.
+     * This is a separate method so that calls such as {@code call(null, "x")} keep sending null literally.
+     * @param redisResponse The response to fill, must not be null.
+     * @param command The command, with each argument a separate entry.
+     * @return The provided response.
+     * @throws NullPointerException If the response is null.
+     */
+    public RedisResponse callInto(RedisResponse redisResponse, Object... command) {
+        if (redisResponse == null) {
+            throw new NullPointerException("response cannot be null");
+        }
         try {
             out.writeRESPArray(command);
             out.flush();
-            return read();
+            return read(redisResponse);
         } catch (IOException exception) {
-            RedisResponse redisResponse = new RedisResponse();
+            redisResponse.reset();
             redisResponse.exception = new RedisException(exception);
             return redisResponse;
         }
@@ -97,7 +113,19 @@ public class RedisClient implements RedisCallable<RedisResponse>, Closeable {
      * @return The response, will never be null.
      */
     public RedisResponse read() {
-        RedisResponse redisResponse = new RedisResponse();
+        return read(new RedisResponse());
+    }
+
+    /**
+     * Reads a response from the Redis server into the provided response, which may be reusable.
+     * @param redisResponse The response to fill, must not be null.
+     * @return The provided response.
+     * @throws NullPointerException If the response is null.
+     */
+    public RedisResponse read(RedisResponse redisResponse) {
+        if (redisResponse == null) {
+            throw new NullPointerException("response cannot be null");
+        }
         in.parse(redisResponse);
         return redisResponse;
     }
@@ -38,12 +38,18 @@ public class RedisIn {
 
     /**
      * Parses the response into a RedisResponse.
+     * Any previous content of the RedisResponse is discarded.
+     * If the RedisResponse is reusable, strings and integers are read into it in place.
      * @param redisResponse The RedisResponse to use.
      */
     public void parse(RedisResponse redisResponse) {
+        redisResponse.reset();
         try {
-            Object x = parseRESPValue();
-            redisResponse.value =x;
+            if (redisResponse.reusable) {
+                parseRESPValue(redisResponse);
+            } else {
+                redisResponse.value = parseRESPValue();
+            }
         } catch (IOException exception) {
             redisResponse.exception = new RedisException(exception);
         } catch (RedisException exception) {
@@ -75,6 +81,38 @@ public class RedisIn {
         }
     }
 
+    /**
+     * Parses the response into a reusable RedisResponse.
+     * Strings are read into the backing buffer and integers are stored unboxed.
+     * Arrays are parsed with {@link #parseRESPArray()} as they are.
+     * @param redisResponse The reusable RedisResponse.
+     * @throws RedisException Thrown when the response is either of type error, or an error occurs.
+     * @throws IOException Thrown when there is an I/O exception reading the response.
+     */
+    private void parseRESPValue(RedisResponse redisResponse) throws RedisException, IOException {
+        int input = inputStream.read();
+        switch (input) {
+            case '+': // Simple string.
+                scanChunk(redisResponse);
+                redisResponse.value = redisResponse.buffer;
+                break;
+            case '-': // Error (contains simple string).
+                throw new RedisException(new String(parseRESPSimpleString()));
+            case ':': // Integer.
+                redisResponse.integer = parseRESPInteger64();
+                redisResponse.value = RedisResponse.INTEGER;
+                break;
+            case '$': // Bulk string.
+                parseRESPBulkString(redisResponse);
+                break;
+            case '*': // Array.
+                redisResponse.value = parseRESPArray();
+                break;
+            default:
+                throw new RedisException(new IllegalStateException("unknown type " + (char) input));
+        }
+    }
+
     /**
      * Parses a RESP string (simple).
      * @return A string as a byte[].
@@ -90,7 +128,48 @@ public class RedisIn {
      * @throws IOException If there is an error reading.
      */
     private long parseRESPInteger64() throws IOException {
-        return Long.parseLong(new String(parseRESPSimpleString()));
+        // Parsed digit by digit, as this is done for every bulk string and array.
+        // Accumulated negatively like Long.parseLong, so that Long.MIN_VALUE fits.
+        int character = inputStream.read();
+        boolean negative = character == '-';
+        if (negative) {
+            character = inputStream.read();
+        }
+        if (character == '\r') {
+            throw new IOException("protocol exception; expected digit but got \\r");
+        }
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        while (character != '\r') {
+            if (character < '0' || character > '9') {
+                throw new IOException("protocol exception; expected digit but got " + (char) character);
+            }
+            int digit = character - '0';
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                throw new IOException("protocol exception; integer overflow");
+            }
+            value = value * 10 - digit;
+            character = inputStream.read();
+        }
+        character = inputStream.read();
+        if (character != '\n') {
+            throw new IOException("protocol exception; expected \\n but got " + (char) character);
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Parses the length of a RESP string (bulk) or array.
+     * @return The length, or -1 to represent null.
+     * @throws IOException If there is an error reading, or the length is invalid.
+     */
+    private int parseRESPLength() throws IOException {
+        long length = parseRESPInteger64();
+        // 512MB max fits into a 32 bit signed integer.
+        if (length < -1 || length > Integer.MAX_VALUE) {
+            throw new IOException("protocol exception; invalid length " + length);
+        }
+        return (int) length;
     }
 
     /**
@@ -99,14 +178,45 @@ public class RedisIn {
      * @throws IOException If there is an error reading.
      */
     private byte[] parseRESPBulkString() throws IOException {
-        int length = (int) parseRESPInteger64(); // 512MB max fits into a 32 bit signed integer.
+        int length = parseRESPLength();
         if (length == -1) {
             return null; // Used to represent null.
         }
         byte[] data = new byte[length];
+        readBulk(data, length);
+        return data;
+    }
+
+    /**
+     * Parses a RESP string (bulk) into the buffer of a reusable RedisResponse.
+     * The value is left as null if the string represents null.
+     * @param redisResponse The reusable RedisResponse.
+     * @throws IOException If there is an error reading.
+     */
+    private void parseRESPBulkString(RedisResponse redisResponse) throws IOException {
+        int length = parseRESPLength();
+        if (length == -1) {
+            return; // Used to represent null.
+        }
+        readBulk(redisResponse.ensureCapacity(length), length);
+        redisResponse.length = length;
+        redisResponse.value = redisResponse.buffer;
+    }
+
+    /**
+     * Reads the content of a RESP string (bulk), including the trailing CR_LF.
+     * @param data The array to read into, must be able to hold the length.
+     * @param length The length of the string.
+     * @throws IOException If there is an error reading.
+     */
+    private void readBulk(byte[] data, int length) throws IOException {
         int read = 0;
         while (read < length) {
-            read += inputStream.read(data, read, length - read);
+            int chunk = inputStream.read(data, read, length - read);
+            if (chunk == -1) {
+                throw new IOException("protocol exception; unexpected end of stream");
+            }
+            read += chunk;
         }
         int character = inputStream.read();
         if (character != '\r') {
@@ -116,7 +226,6 @@ public class RedisIn {
         if (character != '\n') {
             throw new IOException("protocol exception; expected \\n but got " + (char) character);
         }
-        return data;
     }
 
     /**
@@ -126,7 +235,7 @@ public class RedisIn {
      * @throws IOException If there is an error reading.
      */
     private Object[] parseRESPArray() throws IOException {
-        int length = (int) parseRESPInteger64();
+        int length = parseRESPLength();
         if (length == -1) {
             // Edge cases where an array is used to represent null.
             return null;
@@ -148,6 +257,9 @@ public class RedisIn {
         ByteArrayOutputStream buffer = new ByteArrayOutputStream();
         int character;
         while ((character = inputStream.read()) != '\r') {
+            if (character == -1) {
+                throw new IOException("protocol exception; unexpected end of stream");
+            }
             buffer.write(character);
         }
         character = inputStream.read();
@@ -157,4 +269,30 @@ public class RedisIn {
         }
         return buffer.toByteArray();
     }
+
+    /**
+     * Scans a chunk into the buffer of a reusable RedisResponse.
+     * See {@link #scanChunk()} for more information.
+     * @param redisResponse The reusable RedisResponse.
+     * @throws IOException If there is an error reading.
+     */
+    private void scanChunk(RedisResponse redisResponse) throws IOException {
+        byte[] buffer = redisResponse.buffer;
+        int length = 0;
+        int character;
+        while ((character = inputStream.read()) != '\r') {
+            if (character == -1) {
+                throw new IOException("protocol exception; unexpected end of stream");
+            }
+            if (length == buffer.length) {
+                buffer = redisResponse.ensureCapacity(length + 1);
+            }
+            buffer[length++] = (byte) character;
+        }
+        character = inputStream.read();
+        if (character != '\n') {
+            throw new IOException("protocol exception; expected \\n but got " + (char) character);
+        }
+        redisResponse.length = length;
+    }
 }
@@ -27,7 +27,9 @@ import static de.arraying.radish.RedisClient.CR_LF;
  * The request writer to Redis.
  */
 public class RedisOut {
+    private static final byte[] NULL = "null".getBytes();
     private final OutputStream outputStream;
+    private final byte[] digits = new byte[20]; // Long.MIN_VALUE has 19 digits and a sign.
 
     /**
      * Creates a new writer from the output stream.
@@ -44,7 +46,7 @@ public class RedisOut {
      */
     public void writeRESPInteger64(long integer) throws IOException {
         outputStream.write(':');
-        outputStream.write(String.valueOf(integer).getBytes());
+        writeDecimal(integer);
         outputStream.write(CR_LF);
     }
 
@@ -55,7 +57,7 @@ public class RedisOut {
      */
     public void writeRESPBulkString(byte[] string) throws IOException {
         outputStream.write('$');
-        outputStream.write(String.valueOf(string.length).getBytes());
+        writeDecimal(string.length);
         outputStream.write(CR_LF);
         outputStream.write(string);
         outputStream.write(CR_LF);
@@ -69,24 +71,48 @@ public class RedisOut {
      */
     public void writeRESPArray(Object[] values) throws IOException {
         outputStream.write('*');
-        outputStream.write(String.valueOf(values.length).getBytes());
+        writeDecimal(values.length);
         outputStream.write(CR_LF);
         for (Object value : values) {
             if (value == null) {
                 // Handle null literally.
-                writeRESPBulkString("null".getBytes());
+                writeRESPBulkString(NULL);
             } else if (value instanceof Object[]) {
                 writeRESPArray((Object[]) value);
             } else if (value instanceof String) {
                 writeRESPBulkString(((String) value).getBytes());
             } else if (value instanceof byte[]) {
                 writeRESPBulkString((byte[]) value);
+            } else if (value instanceof Long || value instanceof Integer) {
+                writeRESPInteger64(((Number) value).longValue());
             } else if (value instanceof Number) {
                 writeRESPInteger64(Long.parseLong(value.toString()));
             }
         }
     }
 
+    /**
+     * Writes a number in decimal without allocating.
+     * Digits are generated from the negative value, so that Long.MIN_VALUE works too.
+     * @param value The number.
+     * @throws IOException If there was an error writing.
+     */
+    private void writeDecimal(long value) throws IOException {
+        boolean negative = value < 0;
+        if (!negative) {
+            value = -value;
+        }
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+        if (negative) {
+            digits[--position] = '-';
+        }
+        outputStream.write(digits, position, digits.length - position);
+    }
+
     /**
      * Flushes the writer.
      * @throws IOException If there was an error flushing.
@@ -60,12 +60,46 @@ public class RedisPipeline implements RedisCallable<RedisPipeline> {
      * @return A list of responses.
      */
     public List<RedisResponse> read() {
-        List<RedisResponse> responses = new ArrayList<>();
-        while (--calls >= 0) {
+        List<RedisResponse> responses = new ArrayList<>(calls);
+        for (int i = 0; i < calls; i++) {
             RedisResponse redisResponse = new RedisResponse();
             client.in.parse(redisResponse);
             responses.add(redisResponse);
         }
+        calls = 0;
         return responses;
     }
+
+    /**
+     * Gets the responses of the pipeline, reusing the provided list.
+     * Existing responses in the list are filled in order, and new reusable responses are added if there are not enough.
+     * Only the first n entries are valid afterwards, where n is the returned amount of calls.
+     * Surplus entries are kept and reset to a null value, so that their buffers can be reused by later reads.
+     * Passing the same list for every pipeline makes reading allocation free once the list has held the largest batch.
+     * The list only needs to support adding if it is smaller than the amount of calls.
+     * @param responses The list to fill, must not be null and must not contain null.
+     * @return The amount of calls, which is the amount of valid entries at the start of the list.
+     * @throws NullPointerException If the list is null.
+     */
+    public int read(List<RedisResponse> responses) {
+        if (responses == null) {
+            throw new NullPointerException("responses cannot be null");
+        }
+        int read = calls;
+        for (int i = 0; i < read; i++) {
+            RedisResponse redisResponse;
+            if (i < responses.size()) {
+                redisResponse = responses.get(i);
+            } else {
+                redisResponse = new RedisResponse(RedisResponse.DEFAULT_BUFFER_SIZE);
+                responses.add(redisResponse);
+            }
+            client.in.parse(redisResponse);
+        }
+        for (int i = read; i < responses.size(); i++) {
+            responses.get(i).reset();
+        }
+        calls = 0;
+        return read;
+    }
 }
@@ -24,10 +24,51 @@ import java.util.stream.Collectors;
 
 /**
  * Represents a response for a Redis command and/or PUB/SUB.
+ * A response can be made reusable by constructing it with a buffer size.
+ * A reusable response can be passed to {@link RedisClient#callInto(RedisResponse, Object...)},
+ * {@link RedisClient#read(RedisResponse)} or {@link RedisPipeline#read(List)} any number of times.
+ * Simple strings, bulk strings and integers are then read into the response without allocating,
+ * which means that their values are only valid until the response is used again.
  */
 public class RedisResponse {
+
+    /**
+     * The default buffer size for reusable responses.
+     * The buffer grows as needed, so this only needs to be a reasonable starting point.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 8;
+
+    /**
+     * Marks the value as an integer stored in {@link #integer}.
+     */
+    static final Object INTEGER = new Object();
+
+    final boolean reusable;
     Object value;
     RedisException exception;
+    byte[] buffer;
+    int length;
+    long integer;
+
+    /**
+     * Creates a new single use response.
+     */
+    public RedisResponse() {
+        this.reusable = false;
+    }
+
+    /**
+     * Creates a new reusable response.
+     * @param bufferSize The initial size of the backing buffer, a reasonable size would be 2^8.
+     * @throws IllegalArgumentException If the buffer size is smaller than 0.
+     */
+    public RedisResponse(int bufferSize) {
+        if (bufferSize < 0) {
+            throw new IllegalArgumentException("buffer size cannot be < 0");
+        }
+        this.reusable = true;
+        this.buffer = new byte[bufferSize];
+    }
 
     /**
      * Whether or not the action was successful.
@@ -53,8 +94,17 @@ public class RedisResponse {
         return value == null;
     }
 
+    /**
+     * Whether the response is reusable.
+     * @return True if it is, false otherwise.
+     */
+    public boolean reusable() {
+        return reusable;
+    }
+
     /**
      * Gets the object as a raw object that can then be processed further.
+     * For reusable responses, strings are copied out of the buffer and integers are boxed.
      * @return The object, can be null.
      * @throws RedisException If the response was an error and no object exist.
      */
@@ -62,6 +112,12 @@ public class RedisResponse {
         if (exception != null) {
             throw exception;
         }
+        if (value == INTEGER) {
+            return integer;
+        }
+        if (reusable && value == buffer) {
+            return Arrays.copyOf(buffer, length);
+        }
         return value;
     }
 
@@ -73,9 +129,40 @@ public class RedisResponse {
     }
 
     /**
-     * @return Casts {@link #valueRaw()} to a long.
+     * Gets the backing buffer of a string without copying it.
+     * For reusable responses, this is only valid until the response is used again, and only
+     * the first {@link #valueLength()} bytes are part of the value.
+     * For single use responses, this is the same as {@link #valueBytes()}.
+     * @return The buffer, can be null.
+     * @throws RedisException If the response was an error and no object exist.
+     */
+    public byte[] valueBuffer() {
+        if (exception != null) {
+            throw exception;
+        }
+        return (byte[]) value;
+    }
+
+    /**
+     * Gets the length of the string in {@link #valueBuffer()}.
+     * @return The length, 0 if the value is null.
+     * @throws RedisException If the response was an error and no object exist.
+     */
+    public int valueLength() {
+        byte[] bytes = valueBuffer();
+        if (bytes == null) {
+            return 0;
+        }
+        return reusable ? length : bytes.length;
+    }
+
+    /**
+     * @return Casts {@link #valueRaw()} to a long, without boxing for reusable responses.
      */
     public long valueInteger() {
+        if (exception == null && value == INTEGER) {
+            return integer;
+        }
         return (Long) valueRaw();
     }
 
@@ -87,10 +174,10 @@ public class RedisResponse {
     }
 
     /**
-     * @return Converts {@link #valueBytes()} to a string.
+     * @return Converts {@link #valueBuffer()} to a string.
      */
     public String valueString() {
-        return new String(valueBytes());
+        return new String(valueBuffer(), 0, valueLength());
     }
 
     /**
@@ -124,4 +211,27 @@ public class RedisResponse {
             .map(converter)
             .collect(Collectors.toSet());
     }
+
+    /**
+     * Clears the response so that it can be filled again.
+     */
+    void reset() {
+        value = null;
+        exception = null;
+        length = 0;
+        integer = 0;
+    }
+
+    /**
+     * Makes sure the backing buffer can hold the specified amount of bytes.
+     * Existing bytes are kept when the buffer grows.
+     * @param capacity The required capacity.
+     * @return The backing buffer.
+     */
+    byte[] ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+        }
+        return buffer;
+    }
 }
@@ -0,0 +1,161 @@
+/* Copyright 2020 Arraying
+ *
+ * This file is part of Radish.
+ *
+ * Radish is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Radish is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Radish. If not, see http://www.gnu.org/licenses/.
+ */
+
+package de.arraying.radish;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.arraying.radish.RedisClient.CR_LF;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the client and pipeline against a loopback server.
+ * The server replies to every command with its last argument as a bulk string.
+ */
+public class RedisClientTest {
+    private ServerSocket serverSocket;
+    private Thread server;
+    private RedisClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        server = new Thread(this::serve);
+        server.setDaemon(true);
+        server.start();
+        client = new RedisClient(new InetSocketAddress(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort()),
+            RedisClient.DEFAULT_BUFFER_SIZE);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        client.close();
+        serverSocket.close();
+    }
+
+    /**
+     * Accepts a single connection and echoes the last argument of each command.
+     */
+    private void serve() {
+        try (Socket socket = serverSocket.accept()) {
+            RedisIn in = new RedisIn(new BufferedInputStream(socket.getInputStream()));
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            while (true) {
+                RedisResponse command = new RedisResponse();
+                in.parse(command);
+                if (command.error() != null) {
+                    return;
+                }
+                Object[] arguments = command.valueArray();
+                byte[] reply = (byte[]) arguments[arguments.length - 1];
+                out.write('$');
+                out.write(String.valueOf(reply.length).getBytes());
+                out.write(CR_LF);
+                out.write(reply);
+                out.write(CR_LF);
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // The client closed the connection.
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testCallInto() {
+        RedisResponse redisResponse = new RedisResponse(RedisResponse.DEFAULT_BUFFER_SIZE);
+        assertSame(redisResponse, client.callInto(redisResponse, "echo", "hello"));
+        assertEquals("hello", redisResponse.valueString());
+        byte[] buffer = redisResponse.valueBuffer();
+        assertSame(redisResponse, client.callInto(redisResponse, "echo", "world"));
+        assertEquals("world", redisResponse.valueString());
+        assertSame(buffer, redisResponse.valueBuffer());
+        assertEquals("null", client.call(null, "null").valueString());
+    }
+
+    @Test(timeout = 5000)
+    public void testReadInto() {
+        RedisResponse redisResponse = new RedisResponse(RedisResponse.DEFAULT_BUFFER_SIZE);
+        client.pipeline().call("echo", "a").call("echo", "b");
+        assertSame(redisResponse, client.read(redisResponse));
+        assertEquals("a", redisResponse.valueString());
+        assertSame(redisResponse, client.read(redisResponse));
+        assertEquals("b", redisResponse.valueString());
+    }
+
+    @Test(timeout = 5000)
+    public void testPipelineReuse() {
+        RedisPipeline pipeline = client.pipeline();
+        List<RedisResponse> responses = new ArrayList<>();
+        assertEquals(3, pipeline.call("echo", "a").call("echo", "b").call("echo", "c").read(responses));
+        assertEquals(3, responses.size());
+        List<RedisResponse> pooled = new ArrayList<>(responses);
+        assertEquals("c", responses.get(2).valueString());
+
+        // Shrinking keeps the surplus responses, reset.
+        assertEquals(1, pipeline.call("echo", "d").read(responses));
+        assertEquals(3, responses.size());
+        assertEquals("d", responses.get(0).valueString());
+        assertTrue(responses.get(1).nil());
+        assertTrue(responses.get(2).nil());
+
+        // Growing again reuses the same responses.
+        assertEquals(3, pipeline.call("echo", "e").call("echo", "f").call("echo", "g").read(responses));
+        for (int i = 0; i < 3; i++) {
+            assertSame(pooled.get(i), responses.get(i));
+        }
+        assertEquals("g", responses.get(2).valueString());
+
+        // Growing further adds new responses.
+        assertEquals(4, pipeline.call("echo", "h").call("echo", "i").call("echo", "j").call("echo", "k").read(responses));
+        assertEquals(4, responses.size());
+        assertEquals("k", responses.get(3).valueString());
+    }
+
+    @Test(timeout = 5000)
+    public void testPipelineFixedSizeList() {
+        List<RedisResponse> responses = Arrays.asList(new RedisResponse(8), new RedisResponse(8));
+        assertEquals(1, client.pipeline().call("echo", "a").read(responses));
+        assertEquals("a", responses.get(0).valueString());
+    }
+
+    @Test(timeout = 5000)
+    public void testPipelineReadThenReadInto() {
+        RedisPipeline pipeline = client.pipeline();
+        List<RedisResponse> first = pipeline.call("echo", "a").call("echo", "b").read();
+        assertEquals(2, first.size());
+        assertEquals("b", first.get(1).valueString());
+        List<RedisResponse> responses = new ArrayList<>();
+        assertEquals(1, pipeline.call("echo", "c").read(responses));
+        assertEquals("c", responses.get(0).valueString());
+        assertEquals("d", client.call("echo", "d").valueString());
+    }
+}
@@ -0,0 +1,129 @@
+/* Copyright 2020 Arraying
+ *
+ * This file is part of Radish.
+ *
+ * Radish is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Radish is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Radish. If not, see http://www.gnu.org/licenses/.
+ */
+
+package de.arraying.radish;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the response reader.
+ */
+public class RedisInTest {
+
+    /**
+     * Creates a reader over the raw RESP input.
+     * @param input The input.
+     * @return The reader.
+     */
+    private static RedisIn in(String input) {
+        return new RedisIn(new ByteArrayInputStream(input.getBytes()));
+    }
+
+    /**
+     * Parses a single response.
+     * @param input The input.
+     * @param redisResponse The response to fill.
+     * @return The filled response.
+     */
+    private static RedisResponse parse(String input, RedisResponse redisResponse) {
+        in(input).parse(redisResponse);
+        return redisResponse;
+    }
+
+    @Test
+    public void testIntegers() {
+        assertEquals(0, parse(":0\r\n", new RedisResponse()).valueInteger());
+        assertEquals(-42, parse(":-42\r\n", new RedisResponse()).valueInteger());
+        assertEquals(Long.MAX_VALUE, parse(":9223372036854775807\r\n", new RedisResponse()).valueInteger());
+        assertEquals(Long.MIN_VALUE, parse(":-9223372036854775808\r\n", new RedisResponse()).valueInteger());
+    }
+
+    @Test
+    public void testIntegerErrors() {
+        assertNotNull(parse(":99999999999999999999\r\n", new RedisResponse()).error());
+        assertNotNull(parse(":9223372036854775808\r\n", new RedisResponse()).error());
+        assertNotNull(parse(":-9223372036854775809\r\n", new RedisResponse()).error());
+        assertNotNull(parse(":\r\n", new RedisResponse()).error());
+        assertNotNull(parse(":-\r\n", new RedisResponse()).error());
+        assertNotNull(parse(":1a\r\n", new RedisResponse()).error());
+        assertNotNull(parse("$99999999999999999999\r\n", new RedisResponse()).error());
+    }
+
+    @Test
+    public void testLengthErrors() {
+        assertTrue(parse("$-5\r\n", new RedisResponse()).error().getMessage().contains("invalid length"));
+        assertTrue(parse("$-5\r\n", new RedisResponse(8)).error().getMessage().contains("invalid length"));
+        assertTrue(parse("*-2\r\n", new RedisResponse()).error().getMessage().contains("invalid length"));
+        assertTrue(parse("$4294967296\r\n", new RedisResponse()).error().getMessage().contains("invalid length"));
+        assertTrue(parse("*-1\r\n", new RedisResponse()).nil());
+    }
+
+    @Test(timeout = 1000)
+    public void testEndOfStream() {
+        assertNotNull(parse("+abc", new RedisResponse()).error());
+        assertNotNull(parse("-ERR", new RedisResponse()).error());
+        assertNotNull(parse("*1\r\n+abc", new RedisResponse()).error());
+        assertNotNull(parse("$5\r\nabc", new RedisResponse()).error());
+        assertNotNull(parse("+abc", new RedisResponse(8)).error());
+        assertNotNull(parse("$5\r\nabc", new RedisResponse(8)).error());
+    }
+
+    @Test
+    public void testSingleUse() {
+        RedisResponse redisResponse = parse("+OK\r\n", new RedisResponse());
+        assertFalse(redisResponse.reusable());
+        assertEquals("OK", redisResponse.valueString());
+        assertTrue(parse("$-1\r\n", new RedisResponse()).nil());
+        Object[] array = parse("*2\r\n$1\r\na\r\n:1\r\n", new RedisResponse()).valueArray();
+        assertArrayEquals("a".getBytes(), (byte[]) array[0]);
+        assertEquals(1L, array[1]);
+        assertEquals("ERR bad", parse("-ERR bad\r\n", new RedisResponse()).error().getMessage());
+    }
+
+    @Test
+    public void testReusable() {
+        RedisIn in = in("+OK\r\n$5\r\nhello\r\n$-1\r\n:-42\r\n$10\r\n0123456789\r\n-ERR bad\r\n+LONGER SIMPLE STRING\r\n");
+        RedisResponse redisResponse = new RedisResponse(8);
+        assertTrue(redisResponse.reusable());
+        in.parse(redisResponse);
+        assertEquals("OK", redisResponse.valueString());
+        assertEquals(2, redisResponse.valueLength());
+        byte[] buffer = redisResponse.valueBuffer();
+        in.parse(redisResponse);
+        assertSame(buffer, redisResponse.valueBuffer());
+        assertEquals("hello", redisResponse.valueString());
+        assertArrayEquals("hello".getBytes(), redisResponse.valueBytes());
+        in.parse(redisResponse);
+        assertTrue(redisResponse.nil());
+        assertEquals(0, redisResponse.valueLength());
+        in.parse(redisResponse);
+        assertEquals(-42, redisResponse.valueInteger());
+        assertEquals(-42L, redisResponse.valueRaw());
+        in.parse(redisResponse);
+        assertEquals("0123456789", redisResponse.valueString());
+        in.parse(redisResponse);
+        assertEquals("ERR bad", redisResponse.error().getMessage());
+        in.parse(redisResponse);
+        assertNull(redisResponse.error());
+        assertEquals("LONGER SIMPLE STRING", redisResponse.valueString());
+    }
+}
@@ -0,0 +1,65 @@
+/* Copyright 2020 Arraying
+ *
+ * This file is part of Radish.
+ *
+ * Radish is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Radish is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU
+ * General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Radish. If not, see http://www.gnu.org/licenses/.
+ */
+
+package de.arraying.radish;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the request writer.
+ */
+public class RedisOutTest {
+
+    /**
+     * Writes a command as a RESP array.
+     * @param command The command.
+     * @return The written request as a string.
+     * @throws IOException If there was an error writing.
+     */
+    private static String write(Object... command) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        RedisOut out = new RedisOut(outputStream);
+        out.writeRESPArray(command);
+        out.flush();
+        return outputStream.toString();
+    }
+
+    @Test
+    public void testArray() throws IOException {
+        assertEquals("*3\r\n$3\r\nset\r\n$5\r\nhello\r\n$4\r\nnull\r\n", write("set", "hello".getBytes(), null));
+        assertEquals("*0\r\n", write());
+    }
+
+    @Test
+    public void testIntegers() throws IOException {
+        assertEquals("*4\r\n:0\r\n:-42\r\n:" + Long.MAX_VALUE + "\r\n:" + Long.MIN_VALUE + "\r\n",
+            write(0, -42L, Long.MAX_VALUE, Long.MIN_VALUE));
+        assertEquals("*1\r\n:7\r\n", write((short) 7));
+    }
+
+    @Test
+    public void testLongBulkString() throws IOException {
+        byte[] string = new byte[12345];
+        assertTrue(write((Object) string).startsWith("*1\r\n$12345\r\n"));
+    }
+}